@@ -0,0 +1,28 @@
+package com.epam.loadtest.driver;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Arrays;
+
+/**
+ * Base paths of the employee controllers: {@code v1} is backed by the low-level REST client service,
+ * {@code v2} by the Java API client service.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ApiVersion {
+
+    V1("v1", "/api/v1/employees"),
+    V2("v2", "/api/v2/employees");
+
+    private final String key;
+    private final String basePath;
+
+    public static ApiVersion fromKey(String key) {
+        return Arrays.stream(values())
+                .filter(version -> version.key.equalsIgnoreCase(key.trim()))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown api version [" + key + "]"));
+    }
+}
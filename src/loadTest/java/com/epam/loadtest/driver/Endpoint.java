@@ -0,0 +1,31 @@
+package com.epam.loadtest.driver;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Arrays;
+
+/**
+ * Endpoints of {@code EmployeeBaseController}, with the weight each one gets in the default mix.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum Endpoint {
+
+    FIND_ALL("findAll", 5),
+    FIND_BY_ID("findById", 40),
+    CREATE("create", 20),
+    DELETE("delete", 5),
+    SEARCH("search", 25),
+    AGGREGATE("aggregate", 5);
+
+    private final String key;
+    private final int defaultWeight;
+
+    public static Endpoint fromKey(String key) {
+        return Arrays.stream(values())
+                .filter(endpoint -> endpoint.key.equalsIgnoreCase(key.trim()))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown endpoint [" + key + "]"));
+    }
+}
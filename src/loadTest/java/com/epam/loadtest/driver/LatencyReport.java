@@ -0,0 +1,141 @@
+package com.epam.loadtest.driver;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Per-operation latency histograms (microseconds) and status counters.
+ * Latency is measured from the intended send time, so queueing caused by a saturated target is included.
+ */
+public class LatencyReport {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(10);
+    private static final int SIGNIFICANT_DIGITS = 3;
+    private static final double MICROS_IN_MILLI = 1_000.0;
+    private static final String ROW_FORMAT = "%-16s %9s %9s %9s %9s %9s %9s %9s %9s %7s %7s %7s %7s %7s %7s%n";
+    private static final String NO_VALUE = "-";
+
+    private final Map<String, OperationStats> stats = new LinkedHashMap<>();
+
+    public LatencyReport(List<Operation> operations) {
+        operations.forEach(operation -> stats.put(operation.name(), new OperationStats()));
+    }
+
+    public void recordResponse(Operation operation, long latencyNanos, int status) {
+        var operationStats = stats.get(operation.name());
+        operationStats.latency.recordValue(toMicros(latencyNanos));
+        if (status >= 200 && status < 300) {
+            operationStats.success.increment();
+        } else if (status >= 400 && status < 500) {
+            operationStats.clientErrors.increment();
+        } else if (status >= 500) {
+            operationStats.serverErrors.increment();
+        } else {
+            operationStats.otherStatuses.increment();
+        }
+    }
+
+    public void recordFailure(Operation operation, long latencyNanos) {
+        var operationStats = stats.get(operation.name());
+        operationStats.latency.recordValue(toMicros(latencyNanos));
+        operationStats.failures.increment();
+    }
+
+    public void recordDropped(Operation operation) {
+        stats.get(operation.name()).dropped.increment();
+    }
+
+    public void print(PrintStream out, Duration measured) {
+        var seconds = Math.max(measured.toMillis() / 1_000.0, 0.001);
+        out.printf(ROW_FORMAT, "operation", "count", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms",
+                "mean ms", "2xx", "4xx", "5xx", "other", "err", "dropped");
+
+        var total = new Histogram(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+        for (var entry : stats.entrySet()) {
+            var operationStats = entry.getValue();
+            total.add(operationStats.latency);
+            printRow(out, entry.getKey(), operationStats.latency, seconds, operationStats.success.sum(),
+                    operationStats.clientErrors.sum(), operationStats.serverErrors.sum(),
+                    operationStats.otherStatuses.sum(), operationStats.failures.sum(), operationStats.dropped.sum());
+        }
+
+        printRow(out, "total", total, seconds, sum(s -> s.success), sum(s -> s.clientErrors),
+                sum(s -> s.serverErrors), sum(s -> s.otherStatuses), sum(s -> s.failures), sum(s -> s.dropped));
+    }
+
+    /**
+     * Writes one {@code .hgrm} percentile distribution per operation, e.g. for the HdrHistogram plotter.
+     */
+    public void writeHistograms(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        for (var entry : stats.entrySet()) {
+            var file = directory.resolve(entry.getKey().replace(' ', '-') + ".hgrm");
+            try (var out = new PrintStream(Files.newOutputStream(file))) {
+                entry.getValue().latency.outputPercentileDistribution(out, MICROS_IN_MILLI);
+            }
+        }
+    }
+
+    /**
+     * Rows without any completed request are still printed when arrivals were dropped,
+     * so a saturated endpoint does not disappear from the report.
+     */
+    private void printRow(PrintStream out, String name, Histogram latency, double seconds, long success,
+                          long clientErrors, long serverErrors, long otherStatuses, long failures, long dropped) {
+        var count = latency.getTotalCount();
+        if (count == 0 && dropped == 0) {
+            return;
+        }
+        if (count == 0) {
+            out.printf(ROW_FORMAT, name, count, format(0), NO_VALUE, NO_VALUE, NO_VALUE, NO_VALUE, NO_VALUE,
+                    NO_VALUE, success, clientErrors, serverErrors, otherStatuses, failures, dropped);
+            return;
+        }
+        out.printf(ROW_FORMAT, name, count, format(count / seconds),
+                millis(latency.getValueAtPercentile(50)), millis(latency.getValueAtPercentile(90)),
+                millis(latency.getValueAtPercentile(99)), millis(latency.getValueAtPercentile(99.9)),
+                millis(latency.getMaxValue()), format(latency.getMean() / MICROS_IN_MILLI),
+                success, clientErrors, serverErrors, otherStatuses, failures, dropped);
+    }
+
+    private long sum(Function<OperationStats, LongAdder> counter) {
+        return stats.values().stream()
+                .mapToLong(operationStats -> counter.apply(operationStats).sum())
+                .sum();
+    }
+
+    private static long toMicros(long nanos) {
+        return Math.min(Math.max(TimeUnit.NANOSECONDS.toMicros(nanos), 1), HIGHEST_TRACKABLE_MICROS);
+    }
+
+    private static String millis(long micros) {
+        return format(micros / MICROS_IN_MILLI);
+    }
+
+    private static String format(double value) {
+        return String.format("%.2f", value);
+    }
+
+    private static class OperationStats {
+
+        private final Histogram latency = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+        private final LongAdder success = new LongAdder();
+        private final LongAdder clientErrors = new LongAdder();
+        private final LongAdder serverErrors = new LongAdder();
+        private final LongAdder otherStatuses = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private final LongAdder dropped = new LongAdder();
+    }
+}
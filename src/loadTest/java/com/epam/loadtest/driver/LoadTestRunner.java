@@ -0,0 +1,256 @@
+package com.epam.loadtest.driver;
+
+import com.epam.Application;
+import com.epam.dto.EmployeeDto;
+import com.epam.loadtest.generator.EmployeeDataGenerator;
+import com.epam.loadtest.generator.EmployeeFactory;
+import com.epam.loadtest.stub.ElasticsearchStubServer;
+import com.epam.loadtest.util.CommandLineOptions;
+import com.epam.loadtest.util.JsonMappers;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.LongStream;
+
+/**
+ * Entry point of the load test. Without {@code --target} the service is started in-process and backed by
+ * either the embedded {@link ElasticsearchStubServer} ({@code --es=stub}, default) or a real cluster
+ * ({@code --es=http://host:9200}). With {@code --target=http://host:8080} an already running service is used.
+ *
+ * <p>Options:
+ * <ul>
+ *     <li>{@code --rate}, {@code --duration}, {@code --warmup} - arrivals per second and phase lengths in seconds</li>
+ *     <li>{@code --mix} - e.g. {@code findById=40,search=25,create=20,findAll=5,delete=5,aggregate=5}</li>
+ *     <li>{@code --versions} - {@code v1}, {@code v2} or {@code v1,v2}</li>
+ *     <li>{@code --dataset}, {@code --preload} - NDJSON file from the generator and how many of its records
+ *     the target holds; without a dataset the records are generated on the fly from {@code --seed}</li>
+ *     <li>{@code --populate} - index the preloaded records through the create endpoint before the run,
+ *     needed for a real cluster that does not hold them yet</li>
+ *     <li>{@code --max-in-flight}, {@code --timeout}, {@code --histograms}</li>
+ * </ul>
+ *
+ * <p>Documents created during the run that were not deleted by the mix are deleted once the run is over.
+ */
+@Slf4j
+public class LoadTestRunner {
+
+    private static final String STUB = "stub";
+    private static final int DEFAULT_ELASTICSEARCH_PORT = 9200;
+    private static final long BATCH_TIMEOUT_MINUTES = 10;
+
+    public static void main(String[] args) throws Exception {
+        var options = CommandLineOptions.parse(args);
+        var mapper = JsonMappers.create();
+        var seed = options.getLong("seed", EmployeeDataGenerator.DEFAULT_SEED);
+        var skew = options.getDouble("skew", EmployeeDataGenerator.DEFAULT_SKEW);
+        var employeeFactory = new EmployeeFactory(seed, skew);
+        var preload = options.getLong("preload", 100_000);
+        var maxInFlight = options.getInt("max-in-flight", 1_024);
+        var timeout = options.getSeconds("timeout", 30);
+        var rate = options.getDouble("rate", 200);
+        var warmup = options.getSeconds("warmup", 10);
+        var duration = options.getSeconds("duration", 60);
+        if (rate <= 0) {
+            throw new IllegalArgumentException("Rate should be positive, but was [" + rate + "]");
+        }
+        if (warmup.isNegative() || duration.isNegative()) {
+            throw new IllegalArgumentException("Warm-up and duration should not be negative");
+        }
+
+        ElasticsearchStubServer stub = null;
+        ConfigurableApplicationContext context = null;
+        try {
+            String baseUrl;
+            if (options.has("target")) {
+                baseUrl = options.getString("target", "");
+            } else {
+                var es = options.getString("es", STUB);
+                if (STUB.equals(es)) {
+                    stub = new ElasticsearchStubServer(0, options.getInt("stub-threads", 16), mapper);
+                    preload = preloadStub(stub, options, employeeFactory, preload);
+                    stub.start();
+                    es = "http://localhost:" + stub.getPort();
+                }
+                context = startService(URI.create(es));
+                baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+            }
+
+            var client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(timeout)
+                    .build();
+            if (options.has("populate")) {
+                preload = populate(client, baseUrl, options, employeeFactory, preload, maxInFlight, mapper);
+            }
+
+            var mix = WorkloadMix.parse(options.getString("mix", null), options.getString("versions", "v1,v2"));
+            var report = new LatencyReport(mix.getOperations());
+            var requestFactory = new RequestFactory(baseUrl, preload, employeeFactory, skew, mapper, timeout);
+            var driver = new OpenModelLoadDriver(client, requestFactory, mix, report, rate, maxInFlight);
+            driver.run(warmup, duration, seed);
+            deleteCreated(client, baseUrl, requestFactory.drainCreatedIds(), maxInFlight, timeout);
+
+            System.out.printf("%nTarget [%s], preloaded [%d] employees%n", baseUrl, preload);
+            report.print(System.out, duration);
+            if (options.has("histograms")) {
+                report.writeHistograms(options.getPath("histograms", "build/histograms"));
+            }
+        } finally {
+            if (context != null) {
+                context.close();
+            }
+            if (stub != null) {
+                stub.close();
+            }
+        }
+    }
+
+    private static long preloadStub(ElasticsearchStubServer stub, CommandLineOptions options,
+                                    EmployeeFactory employeeFactory, long preload) throws IOException {
+        if (options.has("dataset")) {
+            return stub.preload(options.getPath("dataset", ""), preload);
+        }
+        return stub.preload(LongStream.range(0, preload).mapToObj(employeeFactory::create).iterator(), preload);
+    }
+
+    /**
+     * Starts the service on a random port. The connection settings are passed as command-line arguments,
+     * default properties would lose to {@code application.yaml}.
+     */
+    static ConfigurableApplicationContext startService(URI elasticsearch) {
+        log.info("Starting the service against Elasticsearch [{}]", elasticsearch);
+        return new SpringApplicationBuilder(Application.class)
+                .run(
+                        "--server.port=0",
+                        "--elasticsearch.protocol=" + elasticsearch.getScheme(),
+                        "--elasticsearch.url=" + elasticsearch.getHost(),
+                        "--elasticsearch.port=" + (elasticsearch.getPort() < 0
+                                ? DEFAULT_ELASTICSEARCH_PORT
+                                : elasticsearch.getPort()));
+    }
+
+    /**
+     * Indexes the first {@code count} employees with ids {@code 0..count-1} through the v2 create endpoint.
+     *
+     * @return the number of employees sent, smaller than {@code count} when the dataset is shorter
+     */
+    private static long populate(HttpClient client, String baseUrl, CommandLineOptions options,
+                                 EmployeeFactory employeeFactory, long count, int maxInFlight,
+                                 ObjectMapper mapper) throws IOException, InterruptedException {
+        if (options.has("dataset")) {
+            try (var in = EmployeeDataGenerator.openInput(options.getPath("dataset", ""));
+                 var employees = EmployeeDataGenerator.read(in, mapper)) {
+                return populate(client, baseUrl, employees, count, maxInFlight, mapper);
+            }
+        }
+        var employees = LongStream.range(0, count).mapToObj(employeeFactory::create).iterator();
+        return populate(client, baseUrl, employees, count, maxInFlight, mapper);
+    }
+
+    private static long populate(HttpClient client, String baseUrl, Iterator<EmployeeDto> employees, long count,
+                                 int maxInFlight, ObjectMapper mapper) throws InterruptedException {
+        log.info("Populating [{}] employees through [{}]", count, baseUrl);
+        var requests = LongStream.range(0, count)
+                .takeWhile(id -> employees.hasNext())
+                .mapToObj(id -> createRequest(baseUrl, id, employees.next(), mapper))
+                .iterator();
+
+        var result = sendAll(client, requests, maxInFlight);
+        if (!result.completed()) {
+            throw new IllegalStateException("Population did not finish in time, the run would overlap with it");
+        }
+        if (result.failures() > 0) {
+            log.warn("[{}] employees failed to be populated", result.failures());
+        }
+        return result.sent();
+    }
+
+    /**
+     * Removes the documents created during the run that no delete picked, so repeated runs against the same
+     * cluster see the same index.
+     */
+    private static void deleteCreated(HttpClient client, String baseUrl, List<String> ids, int maxInFlight,
+                                      Duration timeout) throws InterruptedException {
+        if (ids.isEmpty()) {
+            return;
+        }
+        var requests = ids.stream()
+                .map(id -> HttpRequest.newBuilder(URI.create(baseUrl + ApiVersion.V2.getBasePath() + "/" + id))
+                        .timeout(timeout)
+                        .DELETE()
+                        .build())
+                .iterator();
+
+        var result = sendAll(client, requests, maxInFlight);
+        log.info("Deleted [{}] employees created during the run", result.successes());
+        if (result.successes() < ids.size()) {
+            log.warn("[{}] employees created during the run may be left in the index",
+                    ids.size() - result.successes());
+        }
+    }
+
+    private static HttpRequest createRequest(String baseUrl, long id, EmployeeDto employee, ObjectMapper mapper) {
+        try {
+            return HttpRequest.newBuilder(URI.create(baseUrl + ApiVersion.V2.getBasePath() + "/" + id))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(mapper.writeValueAsBytes(employee)))
+                    .build();
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Sends requests with at most {@code maxInFlight} outstanding and waits for all of them to finish.
+     */
+    private static BatchResult sendAll(HttpClient client, Iterator<HttpRequest> requests, int maxInFlight)
+            throws InterruptedException {
+        var inFlight = new Semaphore(maxInFlight);
+        var successes = new LongAdder();
+        var failures = new LongAdder();
+        long sent = 0;
+
+        while (requests.hasNext()) {
+            var request = requests.next();
+            inFlight.acquire();
+            sent++;
+            client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, error) -> {
+                        if (error != null || response.statusCode() >= 300) {
+                            failures.increment();
+                        } else {
+                            successes.increment();
+                        }
+                        inFlight.release();
+                    });
+        }
+
+        var completed = inFlight.tryAcquire(maxInFlight, BATCH_TIMEOUT_MINUTES, TimeUnit.MINUTES);
+        if (!completed) {
+            log.warn("[{}] requests were still in flight after [{}] minutes",
+                    maxInFlight - inFlight.availablePermits(), BATCH_TIMEOUT_MINUTES);
+        }
+        return new BatchResult(sent, successes.sum(), failures.sum(), completed);
+    }
+
+    /**
+     * Requests still in flight after the timeout are counted neither as successes nor as failures.
+     */
+    private record BatchResult(long sent, long successes, long failures, boolean completed) {
+    }
+}
@@ -0,0 +1,104 @@
+package com.epam.loadtest.driver;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.SplittableRandom;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open workload model: requests arrive as a Poisson process at a fixed rate, independently of how fast
+ * the target answers. Arrivals during the warm-up are sent but not recorded. When {@code maxInFlight}
+ * requests are outstanding, new arrivals are dropped and counted instead of piling up in memory.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class OpenModelLoadDriver {
+
+    private static final long NANOS_IN_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final HttpClient client;
+    private final RequestFactory requestFactory;
+    private final WorkloadMix mix;
+    private final LatencyReport report;
+    private final double ratePerSecond;
+    private final int maxInFlight;
+
+    public void run(Duration warmup, Duration duration, long seed) throws InterruptedException {
+        var random = new SplittableRandom(seed);
+        var inFlight = new Semaphore(maxInFlight);
+        var meanIntervalNanos = NANOS_IN_SECOND / ratePerSecond;
+
+        var start = System.nanoTime();
+        var measureFrom = start + warmup.toNanos();
+        var end = measureFrom + duration.toNanos();
+        log.info("Running open model load at [{}] req/s: warm-up [{}] s, measurement [{}] s",
+                ratePerSecond, warmup.toSeconds(), duration.toSeconds());
+
+        var intended = start;
+        while (intended < end) {
+            var now = System.nanoTime();
+            while (now < intended) {
+                LockSupport.parkNanos(intended - now);
+                now = System.nanoTime();
+            }
+
+            var operation = mix.next(random);
+            var measured = intended >= measureFrom;
+            if (inFlight.tryAcquire()) {
+                send(operation, random, intended, measured, inFlight);
+            } else if (measured) {
+                report.recordDropped(operation);
+            }
+            intended += (long) (-Math.log(1.0 - random.nextDouble()) * meanIntervalNanos);
+        }
+
+        awaitCompletion(inFlight);
+    }
+
+    private void send(Operation operation, SplittableRandom random, long intended, boolean measured,
+                      Semaphore inFlight) {
+        RequestFactory.PlannedRequest planned;
+        try {
+            planned = requestFactory.create(operation, random);
+        } catch (IOException e) {
+            inFlight.release();
+            throw new IllegalStateException("Failed to build request for [" + operation.name() + "]", e);
+        }
+
+        client.sendAsync(planned.request(), HttpResponse.BodyHandlers.discarding())
+                .whenComplete((response, error) -> {
+                    var latency = System.nanoTime() - intended;
+                    try {
+                        if (error != null) {
+                            if (measured) {
+                                report.recordFailure(operation, latency);
+                            }
+                            log.debug("Request [{}] failed: {}", operation.name(), error.getMessage());
+                            return;
+                        }
+                        if (planned.createdId() != null && response.statusCode() < 300) {
+                            requestFactory.onCreated(planned.createdId());
+                        }
+                        if (measured) {
+                            report.recordResponse(operation, latency, response.statusCode());
+                        }
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+    }
+
+    private void awaitCompletion(Semaphore inFlight) throws InterruptedException {
+        if (!inFlight.tryAcquire(maxInFlight, 1, TimeUnit.MINUTES)) {
+            log.warn("[{}] requests were still in flight when the run finished",
+                    maxInFlight - inFlight.availablePermits());
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.epam.loadtest.driver;
+
+public record Operation(ApiVersion version, Endpoint endpoint) {
+
+    public String name() {
+        return version.getKey() + " " + endpoint.getKey();
+    }
+}
@@ -0,0 +1,129 @@
+package com.epam.loadtest.driver;
+
+import com.epam.loadtest.generator.EmployeeFactory;
+import com.epam.loadtest.generator.ZipfDistribution;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Builds HTTP requests for operations. Reads target the preloaded ids {@code [0, preloaded)},
+ * creates use fresh ids above that range and deletes remove documents created during the run,
+ * so the preloaded dataset stays intact between runs. Created ids are derived from the wall clock to stay unique
+ * across runs; whatever is left of them is returned by {@link #drainCreatedIds()} for clean-up.
+ * Searched skills follow the same skew as the dataset.
+ */
+public class RequestFactory {
+
+    private static final String JSON_CONTENT_TYPE = "application/json";
+    private static final String AGGREGATE_QUERY = "agg_field=address.town&metric_field=rating"
+            + "&metric_type=avg&sort_order=desc";
+
+    private final String baseUrl;
+    private final long preloaded;
+    private final EmployeeFactory employeeFactory;
+    private final ZipfDistribution<String> searchedSkills;
+    private final ObjectMapper mapper;
+    private final Duration timeout;
+    private final AtomicLong nextCreatedId;
+    private final Queue<String> createdIds = new ConcurrentLinkedQueue<>();
+
+    public RequestFactory(String baseUrl, long preloaded, EmployeeFactory employeeFactory, double skew,
+                          ObjectMapper mapper, Duration timeout) {
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+        this.preloaded = preloaded;
+        this.employeeFactory = employeeFactory;
+        this.searchedSkills = new ZipfDistribution<>(EmployeeFactory.SKILLS, skew);
+        this.mapper = mapper;
+        this.timeout = timeout;
+        this.nextCreatedId = new AtomicLong(preloaded + System.currentTimeMillis() * 1_000);
+    }
+
+    public PlannedRequest create(Operation operation, SplittableRandom random) throws JsonProcessingException {
+        var path = baseUrl + operation.version().getBasePath();
+
+        return switch (operation.endpoint()) {
+            case FIND_ALL -> planned(operation, get(path), null);
+            case FIND_BY_ID -> {
+                var id = existingId(random);
+                yield planned(operation, get(path + "/" + id), null);
+            }
+            case CREATE -> {
+                var id = nextCreatedId.getAndIncrement();
+                var body = mapper.writeValueAsBytes(employeeFactory.create(id));
+                var request = builder(path + "/" + id)
+                        .header("Content-Type", JSON_CONTENT_TYPE)
+                        .POST(HttpRequest.BodyPublishers.ofByteArray(body))
+                        .build();
+                yield planned(operation, request, String.valueOf(id));
+            }
+            case DELETE -> {
+                var id = createdIds.poll();
+                var target = id != null ? id : String.valueOf(nextCreatedId.getAndIncrement());
+                yield planned(operation, builder(path + "/" + target).DELETE().build(), null);
+            }
+            case SEARCH -> {
+                var skill = searchedSkills.sample(random);
+                var query = "skills=" + URLEncoder.encode(skill, StandardCharsets.UTF_8);
+                yield planned(operation, post(path + "/search?" + query), null);
+            }
+            case AGGREGATE -> planned(operation, post(path + "/aggregate?" + AGGREGATE_QUERY), null);
+        };
+    }
+
+    /**
+     * Makes a successfully created document available to later deletes.
+     */
+    public void onCreated(String id) {
+        createdIds.add(id);
+    }
+
+    /**
+     * Removes and returns the ids of created documents that no delete has picked yet.
+     */
+    public List<String> drainCreatedIds() {
+        var ids = new ArrayList<String>();
+        for (var id = createdIds.poll(); id != null; id = createdIds.poll()) {
+            ids.add(id);
+        }
+        return ids;
+    }
+
+    private String existingId(SplittableRandom random) {
+        if (preloaded > 0) {
+            return String.valueOf(random.nextLong(preloaded));
+        }
+        var created = createdIds.peek();
+        return created != null ? created : "0";
+    }
+
+    private PlannedRequest planned(Operation operation, HttpRequest request, String createdId) {
+        return new PlannedRequest(operation, request, createdId);
+    }
+
+    private HttpRequest get(String url) {
+        return builder(url).GET().build();
+    }
+
+    private HttpRequest post(String url) {
+        return builder(url).POST(HttpRequest.BodyPublishers.noBody()).build();
+    }
+
+    private HttpRequest.Builder builder(String url) {
+        return HttpRequest.newBuilder(URI.create(url)).timeout(timeout);
+    }
+
+    public record PlannedRequest(Operation operation, HttpRequest request, String createdId) {
+    }
+}
@@ -0,0 +1,82 @@
+package com.epam.loadtest.driver;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * Weighted choice of operations. The mix is given as {@code findById=40,search=25,...}; endpoints that are
+ * not listed are not called. Every selected api version gets the same share of each endpoint.
+ */
+public class WorkloadMix {
+
+    private final List<Operation> operations = new ArrayList<>();
+    private final double[] cumulativeWeights;
+
+    private WorkloadMix(Map<Endpoint, Integer> weights, List<ApiVersion> versions) {
+        var cumulative = new ArrayList<Double>();
+        var total = 0.0;
+        for (var weight : weights.entrySet()) {
+            if (weight.getValue() == 0) {
+                continue;
+            }
+            for (var version : versions) {
+                total += weight.getValue();
+                operations.add(new Operation(version, weight.getKey()));
+                cumulative.add(total);
+            }
+        }
+        if (total <= 0) {
+            throw new IllegalArgumentException("Workload mix should have at least one positive weight");
+        }
+
+        cumulativeWeights = new double[cumulative.size()];
+        for (var i = 0; i < cumulativeWeights.length; i++) {
+            cumulativeWeights[i] = cumulative.get(i) / total;
+        }
+    }
+
+    /**
+     * @param mix      comma separated {@code endpoint=weight} pairs, or {@code null} for the default weights
+     * @param versions comma separated api versions, e.g. {@code v1,v2}
+     */
+    public static WorkloadMix parse(String mix, String versions) {
+        var weights = new EnumMap<Endpoint, Integer>(Endpoint.class);
+        if (mix == null || mix.isBlank()) {
+            Arrays.stream(Endpoint.values()).forEach(endpoint -> weights.put(endpoint, endpoint.getDefaultWeight()));
+        } else {
+            for (var pair : mix.split(",")) {
+                var parts = pair.split("=");
+                if (parts.length != 2) {
+                    throw new IllegalArgumentException("Mix entry [" + pair + "] should look like endpoint=weight");
+                }
+                var weight = Integer.parseInt(parts[1].trim());
+                if (weight < 0) {
+                    throw new IllegalArgumentException("Weight of [" + parts[0] + "] should not be negative");
+                }
+                weights.put(Endpoint.fromKey(parts[0]), weight);
+            }
+        }
+
+        var apiVersions = Arrays.stream(versions.split(","))
+                .map(ApiVersion::fromKey)
+                .distinct()
+                .toList();
+        return new WorkloadMix(weights, apiVersions);
+    }
+
+    public Operation next(SplittableRandom random) {
+        var index = Arrays.binarySearch(cumulativeWeights, random.nextDouble());
+        if (index < 0) {
+            index = -index - 1;
+        }
+        return operations.get(Math.min(index, operations.size() - 1));
+    }
+
+    public List<Operation> getOperations() {
+        return List.copyOf(operations);
+    }
+}
@@ -0,0 +1,85 @@
+package com.epam.loadtest.generator;
+
+import com.epam.dto.EmployeeDto;
+import com.epam.loadtest.util.CommandLineOptions;
+import com.epam.loadtest.util.JsonMappers;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Streams synthetic employees to an NDJSON file, one {@link EmployeeDto} per line.
+ * The line number (starting from 0) is used as the document id by the load driver.
+ * Files ending with {@code .gz} are compressed.
+ *
+ * <p>Options: {@code --count}, {@code --output}, {@code --seed}, {@code --skew}.
+ */
+@Slf4j
+public class EmployeeDataGenerator {
+
+    public static final long DEFAULT_SEED = 42;
+    public static final double DEFAULT_SKEW = 1.1;
+
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final long PROGRESS_STEP = 100_000;
+
+    public static void main(String[] args) throws IOException {
+        var options = CommandLineOptions.parse(args);
+        var count = options.getLong("count", 1_000_000);
+        var output = options.getPath("output", "build/employees.ndjson");
+        var factory = new EmployeeFactory(options.getLong("seed", DEFAULT_SEED), options.getDouble("skew", DEFAULT_SKEW));
+
+        var started = System.nanoTime();
+        write(factory, count, output, JsonMappers.create());
+        log.info("Generated [{}] employees to [{}] in [{}] ms", count, output, (System.nanoTime() - started) / 1_000_000);
+    }
+
+    public static void write(EmployeeFactory factory, long count, Path output, ObjectMapper mapper) throws IOException {
+        var parent = output.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+
+        try (var out = openOutput(output);
+             var writer = mapper.writerFor(EmployeeDto.class).withRootValueSeparator("\n").writeValues(out)) {
+            for (long i = 0; i < count; i++) {
+                writer.write(factory.create(i));
+                if ((i + 1) % PROGRESS_STEP == 0) {
+                    log.info("Written [{}] of [{}] employees", i + 1, count);
+                }
+            }
+        }
+    }
+
+    /**
+     * Lazily reads employees back from a file written by {@link #write}.
+     */
+    public static MappingIterator<EmployeeDto> read(InputStream in, ObjectMapper mapper) throws IOException {
+        return mapper.readerFor(EmployeeDto.class).readValues(in);
+    }
+
+    public static InputStream openInput(Path path) throws IOException {
+        var in = Files.newInputStream(path);
+        return isCompressed(path) ? new GZIPInputStream(in, BUFFER_SIZE) : in;
+    }
+
+    private static OutputStream openOutput(Path path) throws IOException {
+        var out = Files.newOutputStream(path);
+        return isCompressed(path)
+                ? new GZIPOutputStream(out, BUFFER_SIZE)
+                : new BufferedOutputStream(out, BUFFER_SIZE);
+    }
+
+    private static boolean isCompressed(Path path) {
+        return path.getFileName().toString().endsWith(".gz");
+    }
+}
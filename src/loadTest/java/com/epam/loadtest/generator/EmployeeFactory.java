@@ -0,0 +1,148 @@
+package com.epam.loadtest.generator;
+
+import com.epam.dto.AddressDto;
+import com.epam.dto.EmployeeDto;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Builds synthetic employees. Every record is derived only from the seed and its index,
+ * so the same dataset can be regenerated on any machine without shipping the file around.
+ */
+public class EmployeeFactory {
+
+    public static final List<String> SKILLS = List.of(
+            "java", "spring", "sql", "git", "docker", "kubernetes", "python", "javascript", "typescript", "react",
+            "angular", "elasticsearch", "kafka", "aws", "linux", "hibernate", "maven", "gradle", "postgresql", "redis",
+            "go", "scala", "kotlin", "terraform", "jenkins", "graphql", "mongodb", "rabbitmq", "spark", "hadoop",
+            "rust", "swift", "c++", "c#", "azure", "gcp", "selenium", "jmeter", "ansible", "cassandra"
+    );
+
+    public static final List<AddressDto> TOWNS = List.of(
+            new AddressDto("Belarus", "Minsk"),
+            new AddressDto("Poland", "Warsaw"),
+            new AddressDto("Ukraine", "Kyiv"),
+            new AddressDto("Poland", "Krakow"),
+            new AddressDto("Belarus", "Grodno"),
+            new AddressDto("Hungary", "Budapest"),
+            new AddressDto("Georgia", "Tbilisi"),
+            new AddressDto("Lithuania", "Vilnius"),
+            new AddressDto("Belarus", "Gomel"),
+            new AddressDto("Ukraine", "Lviv"),
+            new AddressDto("Poland", "Wroclaw"),
+            new AddressDto("Kazakhstan", "Almaty"),
+            new AddressDto("Armenia", "Yerevan"),
+            new AddressDto("Uzbekistan", "Tashkent"),
+            new AddressDto("Belarus", "Brest"),
+            new AddressDto("Poland", "Gdansk"),
+            new AddressDto("Ukraine", "Kharkiv"),
+            new AddressDto("Latvia", "Riga"),
+            new AddressDto("Belarus", "Vitebsk"),
+            new AddressDto("Belarus", "Mogilev")
+    );
+
+    private static final List<String> FIRST_NAMES = List.of(
+            "Alexander", "Maria", "Ivan", "Anna", "Dmitry", "Olga", "Sergey", "Elena", "Andrew", "Natalia",
+            "Pavel", "Tatiana", "Mikhail", "Irina", "Nikolai", "Svetlana", "Artem", "Julia", "Maxim", "Daria"
+    );
+
+    private static final List<String> LAST_NAMES = List.of(
+            "Ivanov", "Kowalski", "Shevchenko", "Nowak", "Petrov", "Horvath", "Beridze", "Kazlauskas", "Smirnov",
+            "Bondarenko", "Wisniewski", "Nazarbayev", "Grigoryan", "Karimov", "Kuznetsov", "Lewandowski", "Melnyk",
+            "Berzins", "Sokolov", "Popov"
+    );
+
+    private static final List<String> DESCRIPTION_WORDS = List.of(
+            "experienced", "engineer", "with", "strong", "background", "in", "distributed", "systems", "and",
+            "backend", "development", "delivered", "projects", "for", "banking", "retail", "healthcare", "clients",
+            "responsible", "designing", "scalable", "services", "mentoring", "junior", "developers", "code",
+            "reviews", "performance", "tuning", "migration", "legacy", "applications", "cloud", "infrastructure",
+            "agile", "team", "communication", "customer", "requirements", "testing", "automation", "pipelines",
+            "monitoring", "observability", "data", "processing", "search", "indexing", "security", "architecture"
+    );
+
+    private static final long SEED_MULTIPLIER = 0x9E3779B97F4A7C15L;
+    private static final LocalDate EARLIEST_DOB = LocalDate.of(1960, 1, 1);
+    private static final int DOB_RANGE_DAYS = 44 * 365;
+    private static final int REFERENCE_YEAR = 2023;
+    private static final int MIN_WORKING_AGE = 18;
+    private static final int MAX_SKILLS = 8;
+    private static final double MEDIAN_DESCRIPTION_WORDS = 120;
+    private static final int MAX_DESCRIPTION_WORDS = 2_000;
+
+    private final long seed;
+    private final ZipfDistribution<String> skills;
+    private final ZipfDistribution<AddressDto> towns;
+
+    public EmployeeFactory(long seed, double skew) {
+        this.seed = seed;
+        this.skills = new ZipfDistribution<>(SKILLS, skew);
+        this.towns = new ZipfDistribution<>(TOWNS, skew);
+    }
+
+    public EmployeeDto create(long index) {
+        var random = new SplittableRandom(seed + index * SEED_MULTIPLIER);
+
+        var firstName = FIRST_NAMES.get(random.nextInt(FIRST_NAMES.size()));
+        var lastName = LAST_NAMES.get(random.nextInt(LAST_NAMES.size()));
+        var dob = EARLIEST_DOB.plusDays(random.nextInt(DOB_RANGE_DAYS));
+        var maxExperience = Math.max(0, REFERENCE_YEAR - dob.getYear() - MIN_WORKING_AGE);
+        var experience = random.nextInt(maxExperience + 1);
+        var town = towns.sample(random);
+
+        return EmployeeDto.builder()
+                .name(firstName + " " + lastName)
+                .dob(dob)
+                .address(new AddressDto(town.getCountry(), town.getTown()))
+                .email((firstName + "." + lastName + "." + index + "@example.com").toLowerCase())
+                .skills(nextSkills(random))
+                .experience(experience)
+                .rating(nextRating(random))
+                .description(nextDescription(random))
+                .verified(random.nextInt(10) < 7)
+                .salary(1_000 + experience * 150 + random.nextInt(2_000))
+                .build();
+    }
+
+    private List<String> nextSkills(SplittableRandom random) {
+        var count = 1 + random.nextInt(MAX_SKILLS);
+        var picked = new LinkedHashSet<String>();
+        for (var attempt = 0; attempt < count * 3 && picked.size() < count; attempt++) {
+            picked.add(skills.sample(random));
+        }
+        return new ArrayList<>(picked);
+    }
+
+    private static double nextRating(SplittableRandom random) {
+        var gaussian = nextGaussian(random);
+        var rating = Math.max(1.0, Math.min(5.0, 3.8 + gaussian * 0.7));
+        return Math.round(rating * 10) / 10.0;
+    }
+
+    /**
+     * Word count is log-normal, so most descriptions are a paragraph and a few are several pages long.
+     */
+    private static String nextDescription(SplittableRandom random) {
+        var words = (int) Math.min(MAX_DESCRIPTION_WORDS,
+                Math.max(5, Math.round(MEDIAN_DESCRIPTION_WORDS * Math.exp(nextGaussian(random)))));
+
+        var description = new StringBuilder(words * 9);
+        for (var i = 0; i < words; i++) {
+            if (i > 0) {
+                description.append(' ');
+            }
+            description.append(DESCRIPTION_WORDS.get(random.nextInt(DESCRIPTION_WORDS.size())));
+        }
+        return description.append('.').toString();
+    }
+
+    private static double nextGaussian(SplittableRandom random) {
+        var u1 = 1.0 - random.nextDouble();
+        var u2 = random.nextDouble();
+        return Math.sqrt(-2.0 * Math.log(u1)) * Math.cos(2.0 * Math.PI * u2);
+    }
+}
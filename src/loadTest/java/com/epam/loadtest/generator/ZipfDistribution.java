@@ -0,0 +1,44 @@
+package com.epam.loadtest.generator;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Picks values so that the value at rank {@code k} is chosen with probability proportional to {@code 1 / k^s},
+ * which gives the "few popular, long tail of rare" shape real skill and town columns have.
+ */
+public class ZipfDistribution<T> {
+
+    private final List<T> values;
+    private final double[] cumulativeWeights;
+
+    public ZipfDistribution(List<T> values, double exponent) {
+        if (values.isEmpty()) {
+            throw new IllegalArgumentException("Zipf distribution requires at least one value");
+        }
+        this.values = List.copyOf(values);
+        this.cumulativeWeights = new double[values.size()];
+
+        var total = 0.0;
+        for (var rank = 0; rank < values.size(); rank++) {
+            total += 1.0 / Math.pow(rank + 1, exponent);
+            cumulativeWeights[rank] = total;
+        }
+        for (var rank = 0; rank < cumulativeWeights.length; rank++) {
+            cumulativeWeights[rank] /= total;
+        }
+    }
+
+    public T sample(SplittableRandom random) {
+        var index = Arrays.binarySearch(cumulativeWeights, random.nextDouble());
+        if (index < 0) {
+            index = -index - 1;
+        }
+        return values.get(Math.min(index, values.size() - 1));
+    }
+
+    public int size() {
+        return values.size();
+    }
+}
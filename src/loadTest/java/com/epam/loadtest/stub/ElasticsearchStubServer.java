@@ -0,0 +1,290 @@
+package com.epam.loadtest.stub;
+
+import com.epam.dto.EmployeeDto;
+import com.epam.loadtest.generator.EmployeeDataGenerator;
+import com.epam.loadtest.util.CommandLineOptions;
+import com.epam.loadtest.util.JsonMappers;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.epam.util.Constants.DELETE_METHOD;
+import static com.epam.util.Constants.EMPLOYEES_INDEX;
+import static com.epam.util.Constants.GET_METHOD;
+import static com.epam.util.Constants.POST_METHOD;
+import static com.epam.util.Constants.PUT_METHOD;
+
+/**
+ * In-memory stand-in for the subset of the Elasticsearch REST API used by both employee services:
+ * document get/index/delete and {@code _search} with {@code term}, {@code terms}, {@code bool.must}
+ * queries and {@code terms} aggregations with {@code avg}/{@code stats}/{@code min}/{@code max}/{@code sum}
+ * sub-aggregations. It is meant for exercising the service and the load driver, not for modelling
+ * Elasticsearch performance.
+ *
+ * <p>Options when started on its own: {@code --port}, {@code --threads}, {@code --dataset}, {@code --preload}.
+ */
+@Slf4j
+public class ElasticsearchStubServer implements AutoCloseable {
+
+    private static final String HEAD_METHOD = "HEAD";
+    private static final String DOC_SEGMENT = "_doc";
+    private static final String SEARCH_SEGMENT = "_search";
+    private static final String COMPATIBLE_MEDIA_TYPE = "application/vnd.elasticsearch+json;compatible-with=8";
+    private static final String JSON_MEDIA_TYPE = "application/json";
+    private static final int DEFAULT_SEARCH_SIZE = 10;
+    private static final int TRACK_TOTAL_HITS_UP_TO = 10_000;
+
+    private final ObjectMapper mapper;
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final Map<String, EmployeeDto> documents = new ConcurrentHashMap<>();
+    private final AtomicLong sequenceNumber = new AtomicLong();
+    private final StubAggregations aggregations;
+
+    public ElasticsearchStubServer(int port, int threads, ObjectMapper mapper) throws IOException {
+        this.mapper = mapper;
+        this.aggregations = new StubAggregations(mapper);
+        this.executor = Executors.newFixedThreadPool(threads);
+        this.server = HttpServer.create(new InetSocketAddress(port), 0);
+        this.server.createContext("/", this::handle);
+        this.server.setExecutor(executor);
+    }
+
+    public static void main(String[] args) throws IOException {
+        var options = CommandLineOptions.parse(args);
+        var mapper = JsonMappers.create();
+        var stub = new ElasticsearchStubServer(options.getInt("port", 9200), options.getInt("threads", 16), mapper);
+        if (options.has("dataset")) {
+            stub.preload(options.getPath("dataset", ""), options.getLong("preload", Long.MAX_VALUE));
+        }
+        stub.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(stub::close));
+    }
+
+    public void start() {
+        server.start();
+        log.info("Elasticsearch stub is listening on port [{}]", getPort());
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    public int size() {
+        return documents.size();
+    }
+
+    /**
+     * Loads up to {@code limit} employees from an NDJSON dataset, using the line number as the document id.
+     */
+    public long preload(Path dataset, long limit) throws IOException {
+        try (var in = EmployeeDataGenerator.openInput(dataset)) {
+            var loaded = preload(EmployeeDataGenerator.read(in, mapper), limit);
+            log.info("Preloaded [{}] employees from [{}]", loaded, dataset);
+            return loaded;
+        }
+    }
+
+    public long preload(Iterator<EmployeeDto> employees, long limit) {
+        long id = 0;
+        while (id < limit && employees.hasNext()) {
+            documents.put(String.valueOf(id), employees.next());
+            id++;
+        }
+        return id;
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            var method = exchange.getRequestMethod();
+            var segments = exchange.getRequestURI().getPath().split("/");
+
+            if (segments.length <= 1) {
+                respond(exchange, 200, info());
+            } else if (!EMPLOYEES_INDEX.equals(segments[1])) {
+                respondError(exchange, 404, "index_not_found_exception", "no such index [" + segments[1] + "]");
+            } else if (segments.length == 4 && DOC_SEGMENT.equals(segments[2])) {
+                handleDocument(exchange, method, URLDecoder.decode(segments[3], StandardCharsets.UTF_8));
+            } else if (segments.length == 3 && SEARCH_SEGMENT.equals(segments[2])) {
+                handleSearch(exchange);
+            } else {
+                respondError(exchange, 400, "illegal_argument_exception",
+                        "unsupported request [" + method + " " + exchange.getRequestURI() + "]");
+            }
+        } catch (IllegalArgumentException | IOException e) {
+            log.warn("Stub failed to handle [{}]: {}", exchange.getRequestURI(), e.getMessage());
+            respondError(exchange, 400, "parsing_exception", String.valueOf(e.getMessage()));
+        } catch (RuntimeException e) {
+            log.error("Stub failed to handle [{}]", exchange.getRequestURI(), e);
+            respondError(exchange, 500, "exception", String.valueOf(e.getMessage()));
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private void handleDocument(HttpExchange exchange, String method, String id) throws IOException {
+        switch (method) {
+            case GET_METHOD, HEAD_METHOD -> {
+                var employee = documents.get(id);
+                var body = documentHeader(id).put("found", employee != null);
+                if (employee != null) {
+                    body.put("_version", 1)
+                            .put("_seq_no", 0)
+                            .put("_primary_term", 1)
+                            .set("_source", mapper.valueToTree(employee));
+                }
+                respond(exchange, employee != null ? 200 : 404, body);
+            }
+            case PUT_METHOD, POST_METHOD -> {
+                var employee = mapper.readValue(exchange.getRequestBody(), EmployeeDto.class);
+                var previous = documents.put(id, employee);
+                respond(exchange, previous == null ? 201 : 200,
+                        writeResult(id, previous == null ? "created" : "updated"));
+            }
+            case DELETE_METHOD -> {
+                var previous = documents.remove(id);
+                respond(exchange, previous != null ? 200 : 404,
+                        writeResult(id, previous != null ? "deleted" : "not_found"));
+            }
+            default -> respondError(exchange, 405, "method_not_allowed", "unsupported method [" + method + "]");
+        }
+    }
+
+    private void handleSearch(HttpExchange exchange) throws IOException {
+        var bytes = exchange.getRequestBody().readAllBytes();
+        var body = bytes.length == 0 ? mapper.createObjectNode() : mapper.readTree(bytes);
+        var typedKeys = String.valueOf(exchange.getRequestURI().getQuery()).contains("typed_keys=true");
+
+        var from = body.path("from").asInt(0);
+        var size = body.path("size").asInt(DEFAULT_SEARCH_SIZE);
+        var predicate = StubQueries.toPredicate(body.path("query"));
+        var aggregationsNode = body.has("aggregations") ? body.get("aggregations") : body.get("aggs");
+        var matchAll = body.path("query").isMissingNode() || body.path("query").has("match_all");
+
+        var hits = new ArrayList<Map.Entry<String, EmployeeDto>>();
+        var matched = new ArrayList<EmployeeDto>();
+        long total = 0;
+        var truncated = false;
+        for (var entry : documents.entrySet()) {
+            if (!predicate.test(entry.getValue())) {
+                continue;
+            }
+            if (total >= from && hits.size() < size) {
+                hits.add(entry);
+            }
+            if (aggregationsNode != null) {
+                matched.add(entry.getValue());
+            }
+            total++;
+            if (aggregationsNode == null && hits.size() >= size && total >= TRACK_TOTAL_HITS_UP_TO) {
+                truncated = true;
+                break;
+            }
+        }
+        if (matchAll && aggregationsNode == null) {
+            total = documents.size();
+        }
+
+        var response = mapper.createObjectNode()
+                .put("took", 1)
+                .put("timed_out", false);
+        response.putObject("_shards").put("total", 1).put("successful", 1).put("skipped", 0).put("failed", 0);
+
+        var hitsNode = response.putObject("hits");
+        var tracked = Math.min(total, TRACK_TOTAL_HITS_UP_TO);
+        hitsNode.putObject("total")
+                .put("value", tracked)
+                .put("relation", truncated || total > TRACK_TOTAL_HITS_UP_TO ? "gte" : "eq");
+        hitsNode.put("max_score", hits.isEmpty() ? null : 1.0);
+        var hitArray = hitsNode.putArray("hits");
+        for (var hit : hits) {
+            hitArray.addObject()
+                    .put("_index", EMPLOYEES_INDEX)
+                    .put("_id", hit.getKey())
+                    .put("_score", 1.0)
+                    .set("_source", mapper.valueToTree(hit.getValue()));
+        }
+
+        if (aggregationsNode != null) {
+            response.set("aggregations", aggregations.aggregate(aggregationsNode, matched, typedKeys));
+        }
+        respond(exchange, 200, response);
+    }
+
+    private ObjectNode documentHeader(String id) {
+        return mapper.createObjectNode()
+                .put("_index", EMPLOYEES_INDEX)
+                .put("_id", id);
+    }
+
+    private ObjectNode writeResult(String id, String result) {
+        var body = documentHeader(id)
+                .put("_version", 1)
+                .put("result", result)
+                .put("_seq_no", sequenceNumber.getAndIncrement())
+                .put("_primary_term", 1);
+        body.putObject("_shards").put("total", 1).put("successful", 1).put("failed", 0);
+        return body;
+    }
+
+    private ObjectNode info() {
+        var body = mapper.createObjectNode()
+                .put("name", "employees-stub")
+                .put("cluster_name", "employees-stub")
+                .put("cluster_uuid", "employees-stub")
+                .put("tagline", "You Know, for Search");
+        body.putObject("version")
+                .put("number", "8.5.3")
+                .put("build_flavor", "default")
+                .put("lucene_version", "9.4.1");
+        return body;
+    }
+
+    /**
+     * Error body in the Elasticsearch shape, which the Java API client needs to raise an ElasticsearchException.
+     */
+    private void respondError(HttpExchange exchange, int status, String type, String reason) throws IOException {
+        var body = mapper.createObjectNode();
+        body.putObject("error").put("type", type).put("reason", reason);
+        respond(exchange, status, body.put("status", status));
+    }
+
+    private void respond(HttpExchange exchange, int status, JsonNode body) throws IOException {
+        var accept = exchange.getRequestHeaders().getFirst("Accept");
+        var headers = exchange.getResponseHeaders();
+        headers.set("Content-Type", accept != null && accept.contains("vnd.elasticsearch")
+                ? COMPATIBLE_MEDIA_TYPE
+                : JSON_MEDIA_TYPE);
+        headers.set("X-Elastic-Product", "Elasticsearch");
+
+        if (HEAD_METHOD.equals(exchange.getRequestMethod())) {
+            exchange.sendResponseHeaders(status, -1);
+            return;
+        }
+        var bytes = mapper.writeValueAsBytes(body);
+        exchange.sendResponseHeaders(status, bytes.length);
+        exchange.getResponseBody().write(bytes);
+    }
+}
@@ -0,0 +1,71 @@
+package com.epam.loadtest.stub;
+
+import com.epam.dto.EmployeeDto;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Resolves Elasticsearch field paths against an {@link EmployeeDto}.
+ * A {@code .keyword} suffix selects the exact value, otherwise string fields behave like analyzed text.
+ */
+class EmployeeFieldAccessor {
+
+    private static final String KEYWORD_SUFFIX = ".keyword";
+    private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}+#]+");
+
+    private EmployeeFieldAccessor() {
+    }
+
+    static boolean isKeyword(String field) {
+        return field.endsWith(KEYWORD_SUFFIX);
+    }
+
+    static Collection<?> values(EmployeeDto employee, String field) {
+        var path = isKeyword(field) ? field.substring(0, field.length() - KEYWORD_SUFFIX.length()) : field;
+        var address = employee.getAddress();
+
+        return switch (path) {
+            case "name" -> single(employee.getName());
+            case "dob" -> employee.getDob() == null ? List.of() : List.of(employee.getDob().toString());
+            case "address.country" -> address == null ? List.of() : single(address.getCountry());
+            case "address.town" -> address == null ? List.of() : single(address.getTown());
+            case "email" -> single(employee.getEmail());
+            case "skills" -> employee.getSkills() == null ? List.of() : employee.getSkills();
+            case "experience" -> List.of(employee.getExperience());
+            case "rating" -> List.of(employee.getRating());
+            case "description" -> single(employee.getDescription());
+            case "verified" -> List.of(employee.isVerified());
+            case "salary" -> List.of(employee.getSalary());
+            default -> List.of();
+        };
+    }
+
+    /**
+     * Term semantics: keyword fields and non-strings compare exactly, text fields match any lower-cased token.
+     */
+    static boolean matches(Object fieldValue, String queryValue, boolean keyword) {
+        if (fieldValue instanceof Number number) {
+            try {
+                return number.doubleValue() == Double.parseDouble(queryValue);
+            } catch (NumberFormatException e) {
+                return false;
+            }
+        }
+        var text = fieldValue.toString();
+        if (keyword || !(fieldValue instanceof String)) {
+            return text.equals(queryValue);
+        }
+        for (var token : TOKEN_SEPARATOR.split(text.toLowerCase())) {
+            if (token.equals(queryValue)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static List<String> single(String value) {
+        return value == null ? List.of() : List.of(value);
+    }
+}
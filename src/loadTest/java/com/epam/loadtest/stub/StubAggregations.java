@@ -0,0 +1,197 @@
+package com.epam.loadtest.stub;
+
+import com.epam.dto.EmployeeDto;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Computes {@code terms} bucket aggregations and single/multi value metric aggregations over matched employees.
+ * With {@code typedKeys} the result names are prefixed by their type ({@code sterms#name}, {@code avg#name}),
+ * which is what the Java API client requests and expects back.
+ */
+@RequiredArgsConstructor
+class StubAggregations {
+
+    private static final String TERMS = "terms";
+    private static final String STATS = "stats";
+    private static final Set<String> METRICS = Set.of("avg", "min", "max", "sum", STATS);
+    private static final int DEFAULT_TERMS_SIZE = 10;
+
+    private final ObjectMapper mapper;
+
+    ObjectNode aggregate(JsonNode definitions, List<EmployeeDto> employees, boolean typedKeys) {
+        var result = mapper.createObjectNode();
+        var fields = definitions.fields();
+        while (fields.hasNext()) {
+            var definition = fields.next();
+            var type = aggregationType(definition.getValue());
+            var body = definition.getValue().get(type);
+
+            if (TERMS.equals(type)) {
+                var terms = terms(definition.getValue(), body, employees, typedKeys);
+                result.set(typedKeys ? terms.typedName() + "#" + definition.getKey() : definition.getKey(), terms.node());
+            } else {
+                var stats = Stats.of(employees, body.path("field").asText());
+                result.set(typedKeys ? type + "#" + definition.getKey() : definition.getKey(), stats.toNode(mapper, type));
+            }
+        }
+        return result;
+    }
+
+    private TermsResult terms(JsonNode definition, JsonNode body, List<EmployeeDto> employees, boolean typedKeys) {
+        var field = body.path("field").asText();
+        var size = body.path("size").asInt(DEFAULT_TERMS_SIZE);
+        var subDefinitions = definition.has("aggregations") ? definition.get("aggregations") : definition.get("aggs");
+
+        var buckets = new HashMap<Object, List<EmployeeDto>>();
+        for (var employee : employees) {
+            for (var value : EmployeeFieldAccessor.values(employee, field)) {
+                buckets.computeIfAbsent(value, key -> new ArrayList<>()).add(employee);
+            }
+        }
+
+        var ordered = new ArrayList<>(buckets.entrySet());
+        ordered.sort(order(body.get("order"), subDefinitions, ordered));
+
+        var node = mapper.createObjectNode().put("doc_count_error_upper_bound", 0);
+        long otherDocs = 0;
+        var bucketArray = mapper.createArrayNode();
+        for (var i = 0; i < ordered.size(); i++) {
+            var bucket = ordered.get(i);
+            if (i >= size) {
+                otherDocs += bucket.getValue().size();
+                continue;
+            }
+            var bucketNode = bucketArray.addObject();
+            bucketNode.set("key", mapper.valueToTree(bucket.getKey()));
+            bucketNode.put("doc_count", bucket.getValue().size());
+            if (subDefinitions != null) {
+                bucketNode.setAll(aggregate(subDefinitions, bucket.getValue(), typedKeys));
+            }
+        }
+        node.put("sum_other_doc_count", otherDocs);
+        node.set("buckets", bucketArray);
+
+        var sample = ordered.isEmpty() ? "" : ordered.get(0).getKey();
+        var typedName = sample instanceof Double ? "dterms" : sample instanceof Number ? "lterms" : "sterms";
+        return new TermsResult(typedName, node);
+    }
+
+    /**
+     * Supports {@code _count}, {@code _key} and {@code <sub-aggregation>[.<metric>]} orders; defaults to
+     * descending document count like Elasticsearch.
+     */
+    private Comparator<Map.Entry<Object, List<EmployeeDto>>> order(JsonNode order, JsonNode subDefinitions,
+                                                                   List<Map.Entry<Object, List<EmployeeDto>>> buckets) {
+        Comparator<Map.Entry<Object, List<EmployeeDto>>> byCount = Comparator.comparingInt(bucket -> bucket.getValue().size());
+        Comparator<Map.Entry<Object, List<EmployeeDto>>> byKey = Comparator.comparing(bucket -> bucket.getKey().toString());
+
+        var orderNode = order != null && order.isArray() && !order.isEmpty() ? order.get(0) : order;
+        if (orderNode == null || !orderNode.fields().hasNext()) {
+            return byCount.reversed().thenComparing(byKey);
+        }
+
+        var entry = orderNode.fields().next();
+        var descending = "desc".equalsIgnoreCase(entry.getValue().asText());
+        Comparator<Map.Entry<Object, List<EmployeeDto>>> comparator = switch (entry.getKey()) {
+            case "_count" -> byCount;
+            case "_key" -> byKey;
+            default -> metricOrder(entry.getKey(), subDefinitions, buckets);
+        };
+        return (descending ? comparator.reversed() : comparator).thenComparing(byKey);
+    }
+
+    /**
+     * The metric is computed once per bucket up front, sorting only compares the cached values.
+     */
+    private Comparator<Map.Entry<Object, List<EmployeeDto>>> metricOrder(String path, JsonNode subDefinitions,
+                                                                         List<Map.Entry<Object, List<EmployeeDto>>> buckets) {
+        var separator = path.indexOf('.');
+        var name = separator < 0 ? path : path.substring(0, separator);
+        if (subDefinitions == null || !subDefinitions.has(name)) {
+            throw new IllegalArgumentException("invalid aggregation order path [" + path + "]");
+        }
+
+        var type = aggregationType(subDefinitions.get(name));
+        var metric = separator < 0 ? type : path.substring(separator + 1);
+        var field = subDefinitions.get(name).get(type).path("field").asText();
+        var values = new HashMap<Object, Double>();
+        for (var bucket : buckets) {
+            values.put(bucket.getKey(), Stats.of(bucket.getValue(), field).value(metric));
+        }
+        return Comparator.comparingDouble(bucket -> values.get(bucket.getKey()));
+    }
+
+    private static String aggregationType(JsonNode definition) {
+        var fields = definition.fieldNames();
+        while (fields.hasNext()) {
+            var type = fields.next();
+            if (TERMS.equals(type) || METRICS.contains(type)) {
+                return type;
+            }
+        }
+        throw new IllegalArgumentException("unsupported aggregation " + definition);
+    }
+
+    private record TermsResult(String typedName, ObjectNode node) {
+    }
+
+    private record Stats(long count, double sum, double min, double max) {
+
+        static Stats of(List<EmployeeDto> employees, String field) {
+            long count = 0;
+            double sum = 0;
+            var min = Double.POSITIVE_INFINITY;
+            var max = Double.NEGATIVE_INFINITY;
+            for (var employee : employees) {
+                for (var value : EmployeeFieldAccessor.values(employee, field)) {
+                    if (value instanceof Number number) {
+                        var v = number.doubleValue();
+                        count++;
+                        sum += v;
+                        min = Math.min(min, v);
+                        max = Math.max(max, v);
+                    }
+                }
+            }
+            return new Stats(count, sum, min, max);
+        }
+
+        double value(String metric) {
+            return switch (metric) {
+                case "count" -> count;
+                case "sum" -> sum;
+                case "min" -> count == 0 ? Double.NaN : min;
+                case "max" -> count == 0 ? Double.NaN : max;
+                case "avg" -> count == 0 ? Double.NaN : sum / count;
+                default -> throw new IllegalArgumentException("unsupported metric [" + metric + "]");
+            };
+        }
+
+        ObjectNode toNode(ObjectMapper mapper, String type) {
+            var node = mapper.createObjectNode();
+            if (!STATS.equals(type)) {
+                return putMetric(node, "value", type);
+            }
+            node.put("count", count);
+            putMetric(node, "min", "min");
+            putMetric(node, "max", "max");
+            putMetric(node, "avg", "avg");
+            return node.put("sum", sum);
+        }
+
+        private ObjectNode putMetric(ObjectNode node, String name, String metric) {
+            var value = value(metric);
+            return Double.isNaN(value) ? node.putNull(name) : node.put(name, value);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.epam.loadtest.stub;
+
+import com.epam.dto.EmployeeDto;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * Translates the query DSL subset sent by the employee services into predicates over stored employees.
+ */
+class StubQueries {
+
+    private StubQueries() {
+    }
+
+    static Predicate<EmployeeDto> toPredicate(JsonNode query) {
+        if (query == null || query.isMissingNode() || query.isNull() || query.has("match_all")) {
+            return employee -> true;
+        }
+        if (query.has("term")) {
+            var term = singleField(query.get("term"), "term");
+            var value = term.getValue().isObject() ? term.getValue().path("value") : term.getValue();
+            return fieldMatches(term.getKey(), List.of(value.asText()));
+        }
+        if (query.has("terms")) {
+            var terms = singleField(query.get("terms"), "terms");
+            var values = new ArrayList<String>();
+            terms.getValue().forEach(value -> values.add(value.asText()));
+            return fieldMatches(terms.getKey(), values);
+        }
+        if (query.has("match")) {
+            var match = singleField(query.get("match"), "match");
+            var text = match.getValue().isObject() ? match.getValue().path("query") : match.getValue();
+            return fieldMatches(match.getKey(), List.of(text.asText().toLowerCase().split("\\s+")));
+        }
+        if (query.has("bool")) {
+            return boolPredicate(query.get("bool"));
+        }
+        throw new IllegalArgumentException("unsupported query " + query);
+    }
+
+    private static Predicate<EmployeeDto> boolPredicate(JsonNode bool) {
+        Predicate<EmployeeDto> predicate = employee -> true;
+        for (var clause : clauses(bool.get("must"))) {
+            predicate = predicate.and(toPredicate(clause));
+        }
+        for (var clause : clauses(bool.get("filter"))) {
+            predicate = predicate.and(toPredicate(clause));
+        }
+        for (var clause : clauses(bool.get("must_not"))) {
+            predicate = predicate.and(toPredicate(clause).negate());
+        }
+
+        var should = clauses(bool.get("should"));
+        if (!should.isEmpty()) {
+            Predicate<EmployeeDto> any = employee -> false;
+            for (var clause : should) {
+                any = any.or(toPredicate(clause));
+            }
+            predicate = predicate.and(any);
+        }
+        return predicate;
+    }
+
+    private static Predicate<EmployeeDto> fieldMatches(String field, List<String> values) {
+        var keyword = EmployeeFieldAccessor.isKeyword(field);
+        return employee -> {
+            for (var fieldValue : EmployeeFieldAccessor.values(employee, field)) {
+                for (var value : values) {
+                    if (EmployeeFieldAccessor.matches(fieldValue, value, keyword)) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        };
+    }
+
+    private static List<JsonNode> clauses(JsonNode node) {
+        var clauses = new ArrayList<JsonNode>();
+        if (node == null) {
+            return clauses;
+        }
+        if (node.isArray()) {
+            node.forEach(clauses::add);
+        } else {
+            clauses.add(node);
+        }
+        return clauses;
+    }
+
+    private static Map.Entry<String, JsonNode> singleField(JsonNode node, String queryType) {
+        var fields = node.fields();
+        while (fields.hasNext()) {
+            var field = fields.next();
+            if (!"boost".equals(field.getKey())) {
+                return field;
+            }
+        }
+        throw new IllegalArgumentException("[" + queryType + "] query requires a field");
+    }
+}
@@ -0,0 +1,67 @@
+package com.epam.loadtest.util;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+public class CommandLineOptions {
+
+    private static final String OPTION_PREFIX = "--";
+
+    private final Map<String, String> options;
+
+    private CommandLineOptions(Map<String, String> options) {
+        this.options = options;
+    }
+
+    public static CommandLineOptions parse(String[] args) {
+        var options = new HashMap<String, String>();
+        for (var arg : args) {
+            if (!arg.startsWith(OPTION_PREFIX)) {
+                throw new IllegalArgumentException("Option [" + arg + "] should be passed as --name=value");
+            }
+            var separator = arg.indexOf('=');
+            if (separator < 0) {
+                options.put(arg.substring(OPTION_PREFIX.length()), Boolean.TRUE.toString());
+            } else {
+                options.put(arg.substring(OPTION_PREFIX.length(), separator), arg.substring(separator + 1));
+            }
+        }
+        return new CommandLineOptions(options);
+    }
+
+    public boolean has(String name) {
+        return options.containsKey(name);
+    }
+
+    public String getString(String name, String defaultValue) {
+        return options.getOrDefault(name, defaultValue);
+    }
+
+    public int getInt(String name, int defaultValue) {
+        var value = options.get(name);
+        return value == null ? defaultValue : Integer.parseInt(value);
+    }
+
+    public long getLong(String name, long defaultValue) {
+        var value = options.get(name);
+        return value == null ? defaultValue : Long.parseLong(value);
+    }
+
+    public double getDouble(String name, double defaultValue) {
+        var value = options.get(name);
+        return value == null ? defaultValue : Double.parseDouble(value);
+    }
+
+    public Path getPath(String name, String defaultValue) {
+        return Path.of(getString(name, defaultValue));
+    }
+
+    /**
+     * Reads a duration given in seconds.
+     */
+    public Duration getSeconds(String name, long defaultValue) {
+        return Duration.ofSeconds(getLong(name, defaultValue));
+    }
+}
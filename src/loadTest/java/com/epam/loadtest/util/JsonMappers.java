@@ -0,0 +1,21 @@
+package com.epam.loadtest.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+
+public class JsonMappers {
+
+    private JsonMappers() {
+    }
+
+    /**
+     * Same date handling as the Spring Boot mapper used by the service, so NDJSON records round-trip unchanged.
+     */
+    public static ObjectMapper create() {
+        return JsonMapper.builder()
+                .findAndAddModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+    }
+}
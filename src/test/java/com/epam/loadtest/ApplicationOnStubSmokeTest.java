@@ -0,0 +1,104 @@
+package com.epam.loadtest;
+
+import com.epam.Application;
+import com.epam.loadtest.driver.ApiVersion;
+import com.epam.loadtest.generator.EmployeeFactory;
+import com.epam.loadtest.stub.ElasticsearchStubServer;
+import com.epam.loadtest.util.JsonMappers;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Starts the service on top of {@link ElasticsearchStubServer} and calls every endpoint of both api versions,
+ * checking that the stub speaks enough Elasticsearch for the low-level and the Java API client services.
+ */
+@SpringBootTest(classes = Application.class, webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class ApplicationOnStubSmokeTest {
+
+    private static final int PRELOADED = 100;
+
+    private static final EmployeeFactory factory = new EmployeeFactory(42, 1.1);
+    private static final HttpClient client = HttpClient.newHttpClient();
+    private static ElasticsearchStubServer stub;
+
+    @LocalServerPort
+    private int port;
+
+    @DynamicPropertySource
+    static void elasticsearchProperties(DynamicPropertyRegistry registry) throws IOException {
+        stub = new ElasticsearchStubServer(0, 4, JsonMappers.create());
+        stub.preload(LongStream.range(0, PRELOADED).mapToObj(factory::create).iterator(), PRELOADED);
+        stub.start();
+
+        registry.add("elasticsearch.protocol", () -> "http");
+        registry.add("elasticsearch.url", () -> "localhost");
+        registry.add("elasticsearch.port", stub::getPort);
+    }
+
+    @AfterAll
+    static void stopStub() {
+        stub.close();
+    }
+
+    @ParameterizedTest
+    @EnumSource(ApiVersion.class)
+    void findsAll(ApiVersion version) throws Exception {
+        assertEquals(200, send(version, "", "GET", HttpRequest.BodyPublishers.noBody()).statusCode());
+    }
+
+    @ParameterizedTest
+    @EnumSource(ApiVersion.class)
+    void findsById(ApiVersion version) throws Exception {
+        assertEquals(200, send(version, "/1", "GET", HttpRequest.BodyPublishers.noBody()).statusCode());
+        assertEquals(404, send(version, "/missing", "GET", HttpRequest.BodyPublishers.noBody()).statusCode());
+    }
+
+    @ParameterizedTest
+    @EnumSource(ApiVersion.class)
+    void createsAndDeletes(ApiVersion version) throws Exception {
+        var id = "/smoke-" + version.getKey();
+        var body = JsonMappers.create().writeValueAsBytes(factory.create(PRELOADED));
+
+        assertEquals(201, send(version, id, "POST", HttpRequest.BodyPublishers.ofByteArray(body)).statusCode());
+        assertEquals(204, send(version, id, "DELETE", HttpRequest.BodyPublishers.noBody()).statusCode());
+    }
+
+    @ParameterizedTest
+    @EnumSource(ApiVersion.class)
+    void searches(ApiVersion version) throws Exception {
+        var response = send(version, "/search?skills=java", "POST", HttpRequest.BodyPublishers.noBody());
+
+        assertEquals(200, response.statusCode());
+    }
+
+    @ParameterizedTest
+    @EnumSource(ApiVersion.class)
+    void aggregates(ApiVersion version) throws Exception {
+        var query = "/aggregate?agg_field=address.town&metric_field=rating&metric_type=avg&sort_order=desc";
+
+        assertEquals(200, send(version, query, "POST", HttpRequest.BodyPublishers.noBody()).statusCode());
+    }
+
+    private HttpResponse<String> send(ApiVersion version, String path, String method,
+                                      HttpRequest.BodyPublisher body) throws Exception {
+        var request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + version.getBasePath() + path))
+                .header("Content-Type", "application/json")
+                .method(method, body)
+                .build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+}
@@ -0,0 +1,59 @@
+package com.epam.loadtest.driver;
+
+import com.epam.loadtest.generator.EmployeeFactory;
+import com.epam.loadtest.stub.ElasticsearchStubServer;
+import com.epam.loadtest.util.JsonMappers;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Starts the service the way the runner does, so the Elasticsearch settings have to reach it
+ * over {@code application.yaml}: only the stub on a random port holds the preloaded employees.
+ */
+class LoadTestRunnerTest {
+
+    private static final int PRELOADED = 10;
+
+    private static final HttpClient client = HttpClient.newHttpClient();
+    private static ElasticsearchStubServer stub;
+    private static ConfigurableApplicationContext context;
+
+    @BeforeAll
+    static void startService() throws IOException {
+        var factory = new EmployeeFactory(42, 1.1);
+        stub = new ElasticsearchStubServer(0, 4, JsonMappers.create());
+        stub.preload(LongStream.range(0, PRELOADED).mapToObj(factory::create).iterator(), PRELOADED);
+        stub.start();
+
+        context = LoadTestRunner.startService(URI.create("http://localhost:" + stub.getPort()));
+    }
+
+    @AfterAll
+    static void stopService() {
+        context.close();
+        stub.close();
+    }
+
+    @ParameterizedTest
+    @EnumSource(ApiVersion.class)
+    void findsPreloadedEmployeeThroughStub(ApiVersion version) throws Exception {
+        var port = context.getEnvironment().getProperty("local.server.port");
+        var request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + version.getBasePath() + "/1"))
+                .GET()
+                .build();
+
+        assertEquals(200, client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode());
+    }
+}
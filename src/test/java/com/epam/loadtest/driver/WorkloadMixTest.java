@@ -0,0 +1,83 @@
+package com.epam.loadtest.driver;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class WorkloadMixTest {
+
+    private static final int SAMPLES = 100_000;
+
+    @Test
+    void defaultMixCoversEveryEndpointOnEveryVersion() {
+        var mix = WorkloadMix.parse(null, "v1,v2");
+
+        assertEquals(Endpoint.values().length * ApiVersion.values().length, mix.getOperations().size());
+    }
+
+    @Test
+    void rejectsMalformedPairs() {
+        assertThrows(IllegalArgumentException.class, () -> WorkloadMix.parse("findById", "v1"));
+        assertThrows(IllegalArgumentException.class, () -> WorkloadMix.parse("findById=1=2", "v1"));
+        assertThrows(NumberFormatException.class, () -> WorkloadMix.parse("findById=many", "v1"));
+        assertThrows(IllegalArgumentException.class, () -> WorkloadMix.parse("unknown=1", "v1"));
+        assertThrows(IllegalArgumentException.class, () -> WorkloadMix.parse("findById=1", "v3"));
+    }
+
+    @Test
+    void rejectsNegativeWeights() {
+        assertThrows(IllegalArgumentException.class, () -> WorkloadMix.parse("findById=1,search=-1", "v1"));
+    }
+
+    @Test
+    void rejectsMixWithoutPositiveWeight() {
+        assertThrows(IllegalArgumentException.class, () -> WorkloadMix.parse("findById=0,search=0", "v1,v2"));
+    }
+
+    @Test
+    void zeroWeightEndpointIsNeverChosen() {
+        var mix = WorkloadMix.parse("findById=1,delete=0", "v1,v2");
+        var random = new SplittableRandom(1);
+
+        assertTrue(mix.getOperations().stream().noneMatch(operation -> operation.endpoint() == Endpoint.DELETE));
+        for (var i = 0; i < SAMPLES; i++) {
+            assertEquals(Endpoint.FIND_BY_ID, mix.next(random).endpoint());
+        }
+    }
+
+    @Test
+    void splitsEachEndpointEvenlyAcrossVersions() {
+        var mix = WorkloadMix.parse("findById=1", "v1,v2");
+        var random = new SplittableRandom(2);
+        var counts = new EnumMap<ApiVersion, Integer>(ApiVersion.class);
+
+        for (var i = 0; i < SAMPLES; i++) {
+            counts.merge(mix.next(random).version(), 1, Integer::sum);
+        }
+
+        assertEquals(0.5, counts.get(ApiVersion.V1) / (double) SAMPLES, 0.01);
+        assertEquals(0.5, counts.get(ApiVersion.V2) / (double) SAMPLES, 0.01);
+    }
+
+    @Test
+    void followsConfiguredWeights() {
+        var mix = WorkloadMix.parse("findById=3,search=1", "v2");
+        var random = new SplittableRandom(3);
+        var counts = new HashMap<Endpoint, Integer>();
+
+        for (var i = 0; i < SAMPLES; i++) {
+            counts.merge(mix.next(random).endpoint(), 1, Integer::sum);
+        }
+
+        assertEquals(0.75, counts.get(Endpoint.FIND_BY_ID) / (double) SAMPLES, 0.01);
+        assertEquals(0.25, counts.get(Endpoint.SEARCH) / (double) SAMPLES, 0.01);
+        assertFalse(counts.containsKey(Endpoint.CREATE));
+    }
+}
@@ -0,0 +1,55 @@
+package com.epam.loadtest.generator;
+
+import com.epam.loadtest.util.JsonMappers;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EmployeeFactoryTest {
+
+    private final ObjectMapper mapper = JsonMappers.create();
+
+    @Test
+    void sameSeedAndIndexGiveSameEmployee() throws JsonProcessingException {
+        var first = new EmployeeFactory(42, 1.1);
+        var second = new EmployeeFactory(42, 1.1);
+
+        for (long index : new long[]{0, 1, 999_999, Long.MAX_VALUE / 3}) {
+            assertEquals(mapper.writeValueAsString(first.create(index)),
+                    mapper.writeValueAsString(second.create(index)));
+        }
+    }
+
+    @Test
+    void differentIndexOrSeedGiveDifferentEmployees() throws JsonProcessingException {
+        var factory = new EmployeeFactory(42, 1.1);
+        var employee = mapper.writeValueAsString(factory.create(5));
+
+        assertNotEquals(employee, mapper.writeValueAsString(factory.create(6)));
+        assertNotEquals(employee, mapper.writeValueAsString(new EmployeeFactory(43, 1.1).create(5)));
+    }
+
+    @Test
+    void employeesAreComplete() {
+        var factory = new EmployeeFactory(1, 1.1);
+
+        for (long index = 0; index < 1_000; index++) {
+            var employee = factory.create(index);
+
+            assertFalse(employee.getSkills().isEmpty());
+            assertEquals(employee.getSkills().size(), new HashSet<>(employee.getSkills()).size());
+            assertTrue(employee.getRating() >= 1.0 && employee.getRating() <= 5.0);
+            assertTrue(employee.getEmail().contains("." + index + "@"));
+            assertFalse(employee.getDescription().isBlank());
+            assertTrue(EmployeeFactory.TOWNS.stream()
+                    .anyMatch(town -> town.getTown().equals(employee.getAddress().getTown())));
+        }
+    }
+}
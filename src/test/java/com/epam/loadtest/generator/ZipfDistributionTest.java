@@ -0,0 +1,59 @@
+package com.epam.loadtest.generator;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ZipfDistributionTest {
+
+    @Test
+    void lowerRanksAreSampledMoreOften() {
+        var values = List.of("a", "b", "c", "d", "e");
+        var distribution = new ZipfDistribution<>(values, 1.1);
+        var random = new SplittableRandom(7);
+        var counts = new HashMap<String, Integer>();
+
+        for (var i = 0; i < 100_000; i++) {
+            counts.merge(distribution.sample(random), 1, Integer::sum);
+        }
+
+        for (var rank = 1; rank < values.size(); rank++) {
+            assertTrue(counts.get(values.get(rank - 1)) > counts.get(values.get(rank)),
+                    "rank " + rank + " should be sampled more often than rank " + (rank + 1));
+        }
+    }
+
+    @Test
+    void firstRankMatchesExpectedProbability() {
+        var distribution = new ZipfDistribution<>(List.of(1, 2), 1.0);
+        var random = new SplittableRandom(11);
+        var first = 0;
+
+        for (var i = 0; i < 100_000; i++) {
+            if (distribution.sample(random) == 1) {
+                first++;
+            }
+        }
+
+        // weights 1 and 1/2 give the first rank a probability of 2/3
+        assertEquals(2.0 / 3, first / 100_000.0, 0.01);
+    }
+
+    @Test
+    void singleValueIsAlwaysReturned() {
+        var distribution = new ZipfDistribution<>(List.of("only"), 2.0);
+
+        assertEquals("only", distribution.sample(new SplittableRandom(1)));
+    }
+
+    @Test
+    void rejectsEmptyValues() {
+        assertThrows(IllegalArgumentException.class, () -> new ZipfDistribution<>(List.of(), 1.0));
+    }
+}
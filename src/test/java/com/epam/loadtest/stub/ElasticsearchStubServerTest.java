@@ -0,0 +1,152 @@
+package com.epam.loadtest.stub;
+
+import com.epam.loadtest.generator.EmployeeFactory;
+import com.epam.loadtest.util.JsonMappers;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ElasticsearchStubServerTest {
+
+    private static final int PRELOADED = 20_000;
+
+    private static final ObjectMapper mapper = JsonMappers.create();
+    private static final HttpClient client = HttpClient.newHttpClient();
+    private static ElasticsearchStubServer stub;
+
+    @BeforeAll
+    static void startStub() throws Exception {
+        stub = new ElasticsearchStubServer(0, 4, mapper);
+        var factory = new EmployeeFactory(42, 1.1);
+        stub.preload(LongStream.range(0, PRELOADED).mapToObj(factory::create).iterator(), PRELOADED);
+        stub.start();
+    }
+
+    @AfterAll
+    static void stopStub() {
+        stub.close();
+    }
+
+    @Test
+    void marksResponsesAsElasticsearch() throws Exception {
+        var response = send(request("/").header("Accept", "application/vnd.elasticsearch+json;compatible-with=8")
+                .GET());
+
+        assertEquals(200, response.statusCode());
+        assertEquals("Elasticsearch", response.headers().firstValue("X-Elastic-Product").orElse(null));
+        assertEquals("application/vnd.elasticsearch+json;compatible-with=8",
+                response.headers().firstValue("Content-Type").orElse(null));
+    }
+
+    @Test
+    void answersPlainJsonWithoutCompatibleAccept() throws Exception {
+        var response = send(request("/employees/_doc/0").GET());
+
+        assertEquals("application/json", response.headers().firstValue("Content-Type").orElse(null));
+    }
+
+    @Test
+    void getsPreloadedDocument() throws Exception {
+        var response = send(request("/employees/_doc/0").GET());
+        var body = mapper.readTree(response.body());
+
+        assertEquals(200, response.statusCode());
+        assertTrue(body.get("found").asBoolean());
+        assertEquals("0", body.get("_id").asText());
+        assertTrue(body.get("_source").has("skills"));
+    }
+
+    @Test
+    void missingDocumentIsNotFoundWithFoundFalse() throws Exception {
+        var response = send(request("/employees/_doc/missing").GET());
+        var body = mapper.readTree(response.body());
+
+        assertEquals(404, response.statusCode());
+        assertFalse(body.get("found").asBoolean());
+        assertEquals("employees", body.get("_index").asText());
+        assertEquals("missing", body.get("_id").asText());
+    }
+
+    @Test
+    void indexesAndDeletesDocument() throws Exception {
+        var document = mapper.writeValueAsString(new EmployeeFactory(1, 1.1).create(1));
+
+        var created = send(request("/employees/_doc/new").PUT(HttpRequest.BodyPublishers.ofString(document)));
+        var updated = send(request("/employees/_doc/new").PUT(HttpRequest.BodyPublishers.ofString(document)));
+        var deleted = send(request("/employees/_doc/new").DELETE());
+        var deletedAgain = send(request("/employees/_doc/new").DELETE());
+
+        assertEquals(201, created.statusCode());
+        assertEquals("created", mapper.readTree(created.body()).get("result").asText());
+        assertEquals(200, updated.statusCode());
+        assertEquals("updated", mapper.readTree(updated.body()).get("result").asText());
+        assertEquals(200, deleted.statusCode());
+        assertEquals("deleted", mapper.readTree(deleted.body()).get("result").asText());
+        assertEquals(404, deletedAgain.statusCode());
+        assertEquals("not_found", mapper.readTree(deletedAgain.body()).get("result").asText());
+    }
+
+    @Test
+    void unknownIndexAnswersWithErrorBody() throws Exception {
+        var response = send(request("/unknown/_doc/1").GET());
+        var body = mapper.readTree(response.body());
+
+        assertEquals(404, response.statusCode());
+        assertEquals(404, body.get("status").asInt());
+        assertEquals("index_not_found_exception", body.get("error").get("type").asText());
+    }
+
+    @Test
+    void malformedDocumentAnswersWithErrorBody() throws Exception {
+        var response = send(request("/employees/_doc/bad").PUT(HttpRequest.BodyPublishers.ofString("{\"name\": ")));
+        var body = mapper.readTree(response.body());
+
+        assertEquals(400, response.statusCode());
+        assertTrue(body.has("error"));
+        assertEquals(400, body.get("status").asInt());
+    }
+
+    @Test
+    void searchReportsTotalHitsLowerBoundWhenTruncated() throws Exception {
+        var response = search("{\"query\": {\"match_all\": {}}}");
+
+        assertEquals(10, response.get("hits").get("hits").size());
+        assertEquals(10_000, response.get("hits").get("total").get("value").asInt());
+        assertEquals("gte", response.get("hits").get("total").get("relation").asText());
+    }
+
+    @Test
+    void searchReportsExactTotalForSmallResult() throws Exception {
+        var response = search("{\"query\": {\"term\": {\"email.keyword\": \"missing@example.com\"}}}");
+
+        assertEquals(0, response.get("hits").get("total").get("value").asInt());
+        assertEquals("eq", response.get("hits").get("total").get("relation").asText());
+    }
+
+    private static JsonNode search(String query) throws Exception {
+        var response = send(request("/employees/_search").POST(HttpRequest.BodyPublishers.ofString(query)));
+        assertEquals(200, response.statusCode());
+        return mapper.readTree(response.body());
+    }
+
+    private static HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + stub.getPort() + path))
+                .header("Content-Type", "application/json");
+    }
+
+    private static HttpResponse<String> send(HttpRequest.Builder request) throws Exception {
+        return client.send(request.build(), HttpResponse.BodyHandlers.ofString());
+    }
+}
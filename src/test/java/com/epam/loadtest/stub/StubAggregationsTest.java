@@ -0,0 +1,120 @@
+package com.epam.loadtest.stub;
+
+import com.epam.dto.EmployeeDto;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.epam.loadtest.stub.StubQueriesTest.employee;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StubAggregationsTest {
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final StubAggregations aggregations = new StubAggregations(mapper);
+    private final List<EmployeeDto> employees = List.of(
+            employee("Minsk", List.of("java"), 3.0),
+            employee("Minsk", List.of("java"), 4.0),
+            employee("Minsk", List.of("go"), 5.0),
+            employee("Kyiv", List.of("java"), 5.0),
+            employee("Kyiv", List.of("go"), 4.0),
+            employee("Riga", List.of("java"), 1.0)
+    );
+
+    @Test
+    void typedKeysMatchJavaApiClientAggregation() throws Exception {
+        // shape sent by the Java API client service
+        var definitions = mapper.readTree("{\"rating\": {\"terms\": {\"field\": \"address.town.keyword\"},"
+                + " \"aggregations\": {\"rating\": {\"avg\": {\"field\": \"rating\"}}}}}");
+
+        var result = aggregations.aggregate(definitions, employees, true);
+
+        var buckets = result.get("sterms#rating").get("buckets");
+        assertEquals("Minsk", buckets.get(0).get("key").asText());
+        assertEquals(3, buckets.get(0).get("doc_count").asInt());
+        assertEquals(4.0, buckets.get(0).get("avg#rating").get("value").asDouble(), 1e-9);
+        assertEquals("Kyiv", buckets.get(1).get("key").asText());
+        assertEquals(4.5, buckets.get(1).get("avg#rating").get("value").asDouble(), 1e-9);
+    }
+
+    @Test
+    void untypedKeysAreUsedWithoutTypedKeys() throws Exception {
+        var definitions = mapper.readTree("{\"towns\": {\"terms\": {\"field\": \"address.town.keyword\"}}}");
+
+        var result = aggregations.aggregate(definitions, employees, false);
+
+        assertTrue(result.has("towns"));
+        assertFalse(result.has("sterms#towns"));
+    }
+
+    @Test
+    void ordersBucketsByStatsMetricLikeLowLevelService() throws Exception {
+        // shape sent by the low-level service for metric_type=avg and sort_order=asc
+        var definitions = mapper.readTree("{\"address.town\": {\"terms\": {\"field\": \"address.town.keyword\","
+                + " \"order\": {\"rating_stats.avg\": \"asc\"}},"
+                + " \"aggs\": {\"rating_stats\": {\"stats\": {\"field\": \"rating\"}}}}}");
+
+        var buckets = aggregations.aggregate(definitions, employees, false).get("address.town").get("buckets");
+
+        assertEquals(List.of("Riga", "Minsk", "Kyiv"), keys(buckets));
+        var stats = buckets.get(1).get("rating_stats");
+        assertEquals(3, stats.get("count").asInt());
+        assertEquals(3.0, stats.get("min").asDouble(), 1e-9);
+        assertEquals(5.0, stats.get("max").asDouble(), 1e-9);
+        assertEquals(4.0, stats.get("avg").asDouble(), 1e-9);
+        assertEquals(12.0, stats.get("sum").asDouble(), 1e-9);
+    }
+
+    @Test
+    void ordersByMetricDescending() throws Exception {
+        var definitions = mapper.readTree("{\"towns\": {\"terms\": {\"field\": \"address.town.keyword\","
+                + " \"order\": {\"rating_stats.max\": \"desc\"}},"
+                + " \"aggs\": {\"rating_stats\": {\"stats\": {\"field\": \"rating\"}}}}}");
+
+        var buckets = aggregations.aggregate(definitions, employees, false).get("towns").get("buckets");
+
+        // Kyiv and Minsk tie on max, ties fall back to the key
+        assertEquals(List.of("Kyiv", "Minsk", "Riga"), keys(buckets));
+    }
+
+    @Test
+    void sizeLimitsBucketsAndCountsTheRest() throws Exception {
+        var definitions = mapper.readTree("{\"skills\": {\"terms\": {\"field\": \"skills\", \"size\": 1}}}");
+
+        var result = aggregations.aggregate(definitions, employees, false).get("skills");
+
+        assertEquals(List.of("java"), keys(result.get("buckets")));
+        assertEquals(2, result.get("sum_other_doc_count").asInt());
+    }
+
+    @Test
+    void emptyMetricIsNull() throws Exception {
+        var definitions = mapper.readTree("{\"rating\": {\"avg\": {\"field\": \"rating\"}}}");
+
+        var result = aggregations.aggregate(definitions, List.of(), true);
+
+        assertTrue(result.get("avg#rating").get("value").isNull());
+    }
+
+    @Test
+    void rejectsUnknownOrderPathAndAggregation() throws Exception {
+        var badOrder = mapper.readTree("{\"towns\": {\"terms\": {\"field\": \"address.town.keyword\","
+                + " \"order\": {\"missing.avg\": \"asc\"}}}}");
+        var badType = mapper.readTree("{\"towns\": {\"histogram\": {\"field\": \"rating\"}}}");
+
+        assertThrows(IllegalArgumentException.class, () -> aggregations.aggregate(badOrder, employees, false));
+        assertThrows(IllegalArgumentException.class, () -> aggregations.aggregate(badType, employees, false));
+    }
+
+    private static List<String> keys(JsonNode buckets) {
+        var keys = new ArrayList<String>();
+        buckets.forEach(bucket -> keys.add(bucket.get("key").asText()));
+        return keys;
+    }
+}
@@ -0,0 +1,102 @@
+package com.epam.loadtest.stub;
+
+import com.epam.dto.AddressDto;
+import com.epam.dto.EmployeeDto;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StubQueriesTest {
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final EmployeeDto employee = employee("Minsk", List.of("java", "spring"), 4.5);
+
+    static EmployeeDto employee(String town, List<String> skills, double rating) {
+        return EmployeeDto.builder()
+                .name("Ivan Petrov")
+                .dob(LocalDate.of(1990, 1, 1))
+                .address(new AddressDto("Belarus", town))
+                .email("ivan.petrov@example.com")
+                .skills(skills)
+                .experience(5)
+                .rating(rating)
+                .description("Experienced backend engineer")
+                .verified(true)
+                .salary(3_000)
+                .build();
+    }
+
+    @Test
+    void missingQueryAndMatchAllMatchEverything() throws Exception {
+        assertTrue(StubQueries.toPredicate(null).test(employee));
+        assertTrue(StubQueries.toPredicate(query("{\"match_all\": {}}")).test(employee));
+    }
+
+    @Test
+    void termQueryAcceptsShortAndValueForms() throws Exception {
+        assertTrue(matches("{\"term\": {\"skills\": \"java\"}}"));
+        assertTrue(matches("{\"term\": {\"skills\": {\"value\": \"java\"}}}"));
+        assertFalse(matches("{\"term\": {\"skills\": {\"value\": \"python\"}}}"));
+    }
+
+    @Test
+    void textFieldsMatchLowerCasedTokensAndKeywordFieldsMatchExactly() throws Exception {
+        assertTrue(matches("{\"term\": {\"address.town\": \"minsk\"}}"));
+        assertFalse(matches("{\"term\": {\"address.town\": \"Minsk\"}}"));
+        assertTrue(matches("{\"term\": {\"address.town.keyword\": \"Minsk\"}}"));
+        assertFalse(matches("{\"term\": {\"address.town.keyword\": \"minsk\"}}"));
+        assertTrue(matches("{\"term\": {\"description\": \"backend\"}}"));
+    }
+
+    @Test
+    void numericFieldsCompareByValue() throws Exception {
+        assertTrue(matches("{\"term\": {\"rating\": 4.5}}"));
+        assertTrue(matches("{\"term\": {\"experience\": \"5\"}}"));
+        assertFalse(matches("{\"term\": {\"salary\": 1}}"));
+    }
+
+    @Test
+    void termsQueryMatchesAnyValue() throws Exception {
+        assertTrue(matches("{\"terms\": {\"skills\": [\"python\", \"spring\"], \"boost\": 1.0}}"));
+        assertFalse(matches("{\"terms\": {\"skills\": [\"python\", \"go\"]}}"));
+    }
+
+    @Test
+    void boolQueryCombinesClauses() throws Exception {
+        // shape sent by the low-level service
+        assertTrue(matches("{\"bool\": {\"must\": [{\"terms\": {\"skills\": [\"java\"]}},"
+                + " {\"terms\": {\"address.town\": [\"minsk\"]}}]}}"));
+        assertFalse(matches("{\"bool\": {\"must\": [{\"terms\": {\"skills\": [\"java\"]}},"
+                + " {\"terms\": {\"address.town\": [\"kyiv\"]}}]}}"));
+        assertFalse(matches("{\"bool\": {\"must_not\": {\"term\": {\"skills\": \"java\"}}}}"));
+        assertTrue(matches("{\"bool\": {\"should\": [{\"term\": {\"skills\": \"go\"}},"
+                + " {\"term\": {\"skills\": \"spring\"}}]}}"));
+        assertFalse(matches("{\"bool\": {\"should\": [{\"term\": {\"skills\": \"go\"}}]}}"));
+    }
+
+    @Test
+    void unknownFieldMatchesNothing() throws Exception {
+        assertFalse(matches("{\"term\": {\"unknown\": \"java\"}}"));
+    }
+
+    @Test
+    void rejectsUnsupportedQuery() {
+        assertThrows(IllegalArgumentException.class, () -> matches("{\"wildcard\": {\"name\": \"iv*\"}}"));
+        assertThrows(IllegalArgumentException.class, () -> matches("{\"term\": {\"boost\": 1.0}}"));
+    }
+
+    private boolean matches(String query) throws Exception {
+        return StubQueries.toPredicate(query(query)).test(employee);
+    }
+
+    private JsonNode query(String json) throws Exception {
+        return mapper.readTree(json);
+    }
+}